@@ -0,0 +1,87 @@
+package com.poker.card;
+
+import java.util.List;
+
+/**
+ * Helpers for encoding sets of cards as a {@code long} with one bit per card. Each suit occupies
+ * a contiguous block of 13 bits, ordered by {@link PokerCard.CardSuit#ordinal()}, and within a
+ * block bit {@code i} is set for the rank with ordinal {@code i}. The 52 card bits therefore fill
+ * the low bits of the mask and the remaining 12 are always zero.
+ */
+public final class CardMask {
+    public static final int RANKS_PER_SUIT = PokerCard.Rank.values().length;
+    private static final int SUITS = PokerCard.CardSuit.values().length;
+    private static final long SUIT_BLOCK = (1L << RANKS_PER_SUIT) - 1;
+
+    private CardMask() {
+    }
+
+    public static long of(final PokerCard.Rank rank, final PokerCard.CardSuit suit) {
+        return 1L << (suit.ordinal() * RANKS_PER_SUIT + rank.ordinal());
+    }
+
+    /**
+     * Returns the mask of the given cards. Duplicate cards collapse into a single bit.
+     *
+     * @param cards the cards to encode
+     * @return the mask of the cards
+     */
+    public static long of(final List<PokerCard> cards) {
+        long mask = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= cards.get(i).getMask();
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the canonical representative of a mask under suit isomorphism: two sets of cards
+     * that differ only by a relabelling of suits (such as AhKh7c and AsKs7d) produce the same
+     * canonical mask. This is done by sorting the four suit blocks so the one holding the most
+     * valuable ranks comes last.
+     *
+     * @param mask a card mask
+     * @return the canonical mask, which contains the same number of cards
+     */
+    public static long canonical(final long mask) {
+        long s0 = block(mask, 0);
+        long s1 = block(mask, 1);
+        long s2 = block(mask, 2);
+        long s3 = block(mask, 3);
+
+        // a five-comparator sorting network over the blocks, so no array is needed
+        long low01 = Math.min(s0, s1);
+        long high01 = Math.max(s0, s1);
+        long low23 = Math.min(s2, s3);
+        long high23 = Math.max(s2, s3);
+        long lowest = Math.min(low01, low23);
+        long highest = Math.max(high01, high23);
+        long middleA = Math.max(low01, low23);
+        long middleB = Math.min(high01, high23);
+
+        return lowest
+                | (Math.min(middleA, middleB) << RANKS_PER_SUIT)
+                | (Math.max(middleA, middleB) << (2 * RANKS_PER_SUIT))
+                | (highest << (3 * RANKS_PER_SUIT));
+    }
+
+    /**
+     * Returns the ranks held in the given suit, as a 13-bit set indexed by rank ordinal.
+     *
+     * @param mask a card mask
+     * @param suitOrdinal the {@link PokerCard.CardSuit#ordinal()} of the suit to extract
+     * @return the ranks of the given suit present in the mask
+     */
+    public static long suitBlock(final long mask, final int suitOrdinal) {
+        if (suitOrdinal < 0 || suitOrdinal >= SUITS) {
+            throw new IllegalArgumentException("No suit with ordinal " + suitOrdinal + "!");
+        }
+
+        return block(mask, suitOrdinal);
+    }
+
+    private static long block(final long mask, final int suitOrdinal) {
+        return (mask >>> (suitOrdinal * RANKS_PER_SUIT)) & SUIT_BLOCK;
+    }
+}
@@ -1,8 +1,8 @@
 package com.poker.card;
 
 public class PokerCard implements Comparable<PokerCard> {
-    Rank rank;
-    CardSuit suit;
+    final Rank rank;
+    final CardSuit suit;
 
     public PokerCard(Rank rank, CardSuit suit) {
         this.rank = rank;
@@ -17,10 +17,39 @@ public class PokerCard implements Comparable<PokerCard> {
         return rank;
     }
 
+    /**
+     * Returns the single-bit mask for this card, laid out as described in {@link CardMask}.
+     *
+     * @return a mask with exactly one bit set
+     */
+    public long getMask() {
+        return CardMask.of(rank, suit);
+    }
+
     public int difference(PokerCard otherCard) {
         return this.rank.value - otherCard.rank.value;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof PokerCard)) {
+            return false;
+        }
+
+        PokerCard otherCard = (PokerCard) other;
+        return rank == otherCard.rank && suit == otherCard.suit;
+    }
+
+    @Override
+    public int hashCode() {
+        // the bit position is unique per card, so it makes a collision-free hash
+        return Long.numberOfTrailingZeros(getMask());
+    }
+
     @Override
     public int compareTo(PokerCard other) {
         if (this.rank.compareTo(other.rank) == 0) {
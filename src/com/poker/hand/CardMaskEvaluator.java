@@ -0,0 +1,195 @@
+package com.poker.hand;
+
+import com.poker.card.CardMask;
+import com.poker.card.PokerCard;
+import com.poker.hand.HandRanking.HandRankType;
+
+/**
+ * Ranks the best five-card hand contained in a {@link CardMask} of five to seven cards, without
+ * building any {@link PokerHand}s. The result is a single {@code int} score in which a higher
+ * score is a better hand, and hands that tie as {@link HandRanking}s tie as scores too.
+ *
+ * <p>The score holds the hand rank type in its high bits, followed by up to five 4-bit rank
+ * ordinals in the same order as {@link HandRanking#getGroupRanks()}.
+ *
+ * <p>These rules mirror {@link PokerHand#getHandRanking()}, which still has to rank hands built
+ * from arbitrary card lists that a mask can't represent, such as ones with repeated cards. Any
+ * change to one must be made to the other; {@code CardMaskEvaluatorTest} checks that the two agree
+ * on every hand rank type.
+ */
+public class CardMaskEvaluator {
+    private static final int RANK_BITS = 4;
+    private static final int GROUP_SLOTS = 5;
+    private static final int TYPE_SHIFT = RANK_BITS * GROUP_SLOTS;
+
+    private static final int ACE = CardMask.RANKS_PER_SUIT - 1;
+
+    /**
+     * The ranks of the wheel (A-2-3-4-5): the ace plus the four lowest ranks.
+     */
+    private static final int WHEEL_RANKS = (1 << ACE) | 0xF;
+    private static final int WHEEL_HIGH = 3;
+
+    private static final HandRankType[] HAND_RANK_TYPES = HandRankType.values();
+
+    private CardMaskEvaluator() {
+    }
+
+    /**
+     * Returns the score of the best five-card hand that can be made from the cards in the mask.
+     *
+     * @param cardMask a {@link CardMask} holding between five and seven cards
+     * @return the score of the best hand; higher scores beat lower ones
+     */
+    public static int evaluate(final long cardMask) {
+        int clubs = (int) CardMask.suitBlock(cardMask, PokerCard.CardSuit.CLUBS.ordinal());
+        int diamonds = (int) CardMask.suitBlock(cardMask, PokerCard.CardSuit.DIAMONDS.ordinal());
+        int hearts = (int) CardMask.suitBlock(cardMask, PokerCard.CardSuit.HEARTS.ordinal());
+        int spades = (int) CardMask.suitBlock(cardMask, PokerCard.CardSuit.SPADES.ordinal());
+
+        // with at most seven cards only one suit can hold five or more of them
+        int flushRanks = 0;
+        if (Integer.bitCount(clubs) >= 5) {
+            flushRanks = clubs;
+        } else if (Integer.bitCount(diamonds) >= 5) {
+            flushRanks = diamonds;
+        } else if (Integer.bitCount(hearts) >= 5) {
+            flushRanks = hearts;
+        } else if (Integer.bitCount(spades) >= 5) {
+            flushRanks = spades;
+        }
+
+        if (flushRanks != 0) {
+            int straightFlushHigh = straightHigh(flushRanks);
+            if (straightFlushHigh == ACE) {
+                return score(HandRankType.ROYAL_FLUSH, straightFlushHigh, 0, 0);
+            } else if (straightFlushHigh >= 0) {
+                return score(HandRankType.STRAIGHT_FLUSH, straightFlushHigh, 0, 0);
+            }
+        }
+
+        // a rank is in a set below if at least that many suits hold it
+        int ranks = clubs | diamonds | hearts | spades;
+        int twoOrMore = (clubs & diamonds) | (clubs & hearts) | (clubs & spades)
+                | (diamonds & hearts) | (diamonds & spades) | (hearts & spades);
+        int threeOrMore = (clubs & diamonds & hearts) | (clubs & diamonds & spades)
+                | (clubs & hearts & spades) | (diamonds & hearts & spades);
+        int quartets = clubs & diamonds & hearts & spades;
+
+        if (quartets != 0) {
+            int quartet = highest(quartets);
+            return score(HandRankType.FOUR_OF_A_KIND, quartet,
+                    highest(ranks & ~(1 << quartet)), 0);
+        }
+
+        if (threeOrMore != 0) {
+            int triplet = highest(threeOrMore);
+            // a second triplet can fill the pair slot of a full house
+            int otherGroups = twoOrMore & ~(1 << triplet);
+            if (otherGroups != 0) {
+                return score(HandRankType.FULL_HOUSE, triplet, highest(otherGroups), 0);
+            }
+        }
+
+        if (flushRanks != 0) {
+            return scoreTopRanks(HandRankType.FLUSH, 0, 0, flushRanks, GROUP_SLOTS);
+        }
+
+        int straightHigh = straightHigh(ranks);
+        if (straightHigh >= 0) {
+            return score(HandRankType.STRAIGHT, straightHigh, 0, 0);
+        }
+
+        if (threeOrMore != 0) {
+            int triplet = highest(threeOrMore);
+            return scoreTopRanks(HandRankType.THREE_OF_A_KIND, triplet, 1,
+                    ranks & ~(1 << triplet), 2);
+        }
+
+        if (Integer.bitCount(twoOrMore) >= 2) {
+            int highPair = highest(twoOrMore);
+            int lowPair = highest(twoOrMore & ~(1 << highPair));
+            int kickers = ranks & ~(1 << highPair) & ~(1 << lowPair);
+            return score(HandRankType.TWO_PAIR, highPair, lowPair, highest(kickers));
+        }
+
+        if (twoOrMore != 0) {
+            int pair = highest(twoOrMore);
+            return scoreTopRanks(HandRankType.PAIR, pair, 1, ranks & ~(1 << pair), 3);
+        }
+
+        return scoreTopRanks(HandRankType.SINGLE, 0, 0, ranks, GROUP_SLOTS);
+    }
+
+    /**
+     * Returns the hand rank type encoded in a score returned by {@link #evaluate(long)}.
+     *
+     * @param score a hand score
+     * @return the type of hand the score represents
+     */
+    public static HandRankType getHandRankType(final int score) {
+        return HAND_RANK_TYPES[HAND_RANK_TYPES.length - 1 - (score >>> TYPE_SHIFT)];
+    }
+
+    /**
+     * Returns the rank ordinal of the highest card in a straight within the given ranks, or -1 if
+     * there is none.
+     */
+    private static int straightHigh(final int ranks) {
+        for (int high = ACE; high >= 4; high--) {
+            int run = 0x1F << (high - 4);
+            if ((ranks & run) == run) {
+                return high;
+            }
+        }
+
+        return (ranks & WHEEL_RANKS) == WHEEL_RANKS ? WHEEL_HIGH : -1;
+    }
+
+    private static int highest(final int ranks) {
+        return 31 - Integer.numberOfLeadingZeros(ranks);
+    }
+
+    /**
+     * Scores a hand whose group ranks are {@code groupCount} leading ranks (0 or 1 of them, given
+     * in {@code leadingRank}) followed by the {@code kickerCount} highest of {@code kickers}.
+     */
+    private static int scoreTopRanks(final HandRankType handRankType, final int leadingRank,
+            final int groupCount, final int kickers, final int kickerCount) {
+        int score = strength(handRankType);
+        int slot = 0;
+        if (groupCount == 1) {
+            score = (score << RANK_BITS) | leadingRank;
+            slot++;
+        }
+
+        int remaining = kickers;
+        for (int i = 0; i < kickerCount; i++) {
+            int kicker = highest(remaining);
+            remaining &= ~(1 << kicker);
+            score = (score << RANK_BITS) | kicker;
+            slot++;
+        }
+
+        return score << (RANK_BITS * (GROUP_SLOTS - slot));
+    }
+
+    /**
+     * Scores a hand with up to three group ranks; unused trailing ranks are passed as 0.
+     */
+    private static int score(final HandRankType handRankType, final int first, final int second,
+            final int third) {
+        return (strength(handRankType) << TYPE_SHIFT)
+                | (first << (RANK_BITS * (GROUP_SLOTS - 1)))
+                | (second << (RANK_BITS * (GROUP_SLOTS - 2)))
+                | (third << (RANK_BITS * (GROUP_SLOTS - 3)));
+    }
+
+    /**
+     * Hand rank types are declared strongest first, so the ordinal is flipped to make a stronger
+     * type a larger number.
+     */
+    private static int strength(final HandRankType handRankType) {
+        return HAND_RANK_TYPES.length - 1 - handRankType.ordinal();
+    }
+}
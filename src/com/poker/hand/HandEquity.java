@@ -0,0 +1,53 @@
+package com.poker.hand;
+
+/**
+ * The result of a {@link HandEquityCalculator} run: for each player, how often they win the pot
+ * outright, how often they split it, and the share of the pot they can expect overall.
+ */
+public class HandEquity {
+    private final double[] winProbabilities;
+    private final double[] tieProbabilities;
+    private final double[] potEquities;
+
+    HandEquity(final double[] winProbabilities, final double[] tieProbabilities,
+            final double[] potEquities) {
+        this.winProbabilities = winProbabilities;
+        this.tieProbabilities = tieProbabilities;
+        this.potEquities = potEquities;
+    }
+
+    public int getPlayerCount() {
+        return potEquities.length;
+    }
+
+    /**
+     * Returns the probability that the player wins the whole pot alone.
+     *
+     * @param player the player's index, in the order the hole cards were given
+     * @return the probability of an outright win
+     */
+    public double getWinProbability(final int player) {
+        return winProbabilities[player];
+    }
+
+    /**
+     * Returns the probability that the player splits the pot with one or more other players.
+     *
+     * @param player the player's index, in the order the hole cards were given
+     * @return the probability of a split pot involving the player
+     */
+    public double getTieProbability(final int player) {
+        return tieProbabilities[player];
+    }
+
+    /**
+     * Returns the share of the pot the player can expect, counting a split pot as an equal share
+     * among the tied players. Pot equities of all players sum to 1.
+     *
+     * @param player the player's index, in the order the hole cards were given
+     * @return the player's expected share of the pot
+     */
+    public double getPotEquity(final int player) {
+        return potEquities[player];
+    }
+}
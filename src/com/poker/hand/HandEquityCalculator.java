@@ -0,0 +1,177 @@
+package com.poker.hand;
+
+import com.poker.card.CardMask;
+import com.poker.card.PokerCard;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Computes each player's chances in a Texas Hold'em pot, where every player holds two private
+ * cards, when all remaining board cards are dealt out. Outright wins and split pots are counted
+ * separately in the returned {@link HandEquity}, since a split leaves the stacks where they were.
+ *
+ * <p>Boards are dealt and ranked as {@link CardMask}s with {@link CardMaskEvaluator}, so the
+ * inner loop builds no {@link PokerHand}s and allocates nothing per board.
+ */
+public class HandEquityCalculator {
+    private static final int BOARD_SIZE = 5;
+    private static final int HOLE_CARDS = 2;
+    private static final int DECK_SIZE =
+            PokerCard.Rank.values().length * PokerCard.CardSuit.values().length;
+
+    private HandEquityCalculator() {
+    }
+
+    /**
+     * Returns the win, tie and pot equity of each player. If the number of ways to complete the
+     * board is at most {@code trials}, every completion is enumerated and the result is exact;
+     * otherwise {@code trials} random completions are sampled.
+     *
+     * @param holeCards the two private cards of each player, in seat order
+     * @param board the community cards dealt so far
+     * @param trials the maximum number of board completions to evaluate
+     * @param random the source of randomness used when sampling
+     * @return the equity of each player, in the same order as {@code holeCards}
+     */
+    public static HandEquity calculate(final List<List<PokerCard>> holeCards,
+            final List<PokerCard> board, final int trials, final Random random) {
+        if (holeCards.size() < 2 || board.size() > BOARD_SIZE || trials < 1) {
+            throw new IllegalArgumentException(
+                    "Equity needs at least two players, a valid board and at least one trial!");
+        }
+
+        long boardMask = CardMask.of(board);
+        long usedMask = boardMask;
+        int usedCount = board.size();
+        long[] holeMasks = new long[holeCards.size()];
+        for (int i = 0; i < holeCards.size(); i++) {
+            if (holeCards.get(i).size() != HOLE_CARDS) {
+                throw new IllegalArgumentException("Each player must hold exactly two cards!");
+            }
+
+            holeMasks[i] = CardMask.of(holeCards.get(i));
+            usedMask |= holeMasks[i];
+            usedCount += holeCards.get(i).size();
+        }
+
+        if (Long.bitCount(usedMask) != usedCount) {
+            throw new IllegalArgumentException("A card can't be dealt more than once!");
+        }
+
+        // the undealt cards, each as a single-bit mask
+        long[] deck = new long[DECK_SIZE - usedCount];
+        int deckSize = 0;
+        for (int bit = 0; bit < DECK_SIZE; bit++) {
+            if ((usedMask & (1L << bit)) == 0) {
+                deck[deckSize++] = 1L << bit;
+            }
+        }
+
+        int missing = BOARD_SIZE - board.size();
+        double[] wins = new double[holeCards.size()];
+        double[] ties = new double[holeCards.size()];
+        double[] shares = new double[holeCards.size()];
+        int[] scores = new int[holeCards.size()];
+        long boardsEvaluated;
+
+        if (combinations(deckSize, missing) <= trials) {
+            // few enough completions to walk every one of them
+            int[] indices = new int[missing];
+            for (int i = 0; i < missing; i++) {
+                indices[i] = i;
+            }
+
+            boardsEvaluated = 0;
+            do {
+                long fullBoardMask = boardMask;
+                for (int i = 0; i < missing; i++) {
+                    fullBoardMask |= deck[indices[i]];
+                }
+                awardPot(holeMasks, fullBoardMask, scores, wins, ties, shares);
+                boardsEvaluated++;
+            } while (nextCombination(indices, deckSize));
+        } else {
+            for (int trial = 0; trial < trials; trial++) {
+                // partial Fisher-Yates shuffle; only the first few slots of the deck are needed
+                long fullBoardMask = boardMask;
+                for (int i = 0; i < missing; i++) {
+                    int swapIndex = i + random.nextInt(deckSize - i);
+                    long swap = deck[i];
+                    deck[i] = deck[swapIndex];
+                    deck[swapIndex] = swap;
+                    fullBoardMask |= deck[i];
+                }
+                awardPot(holeMasks, fullBoardMask, scores, wins, ties, shares);
+            }
+            boardsEvaluated = trials;
+        }
+
+        for (int i = 0; i < shares.length; i++) {
+            wins[i] /= boardsEvaluated;
+            ties[i] /= boardsEvaluated;
+            shares[i] /= boardsEvaluated;
+        }
+
+        return new HandEquity(wins, ties, shares);
+    }
+
+    private static void awardPot(final long[] holeMasks, final long fullBoardMask,
+            final int[] scores, final double[] wins, final double[] ties, final double[] shares) {
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < holeMasks.length; i++) {
+            scores[i] = CardMaskEvaluator.evaluate(holeMasks[i] | fullBoardMask);
+            best = Math.max(best, scores[i]);
+        }
+
+        int winners = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] == best) {
+                winners++;
+            }
+        }
+
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] == best) {
+                shares[i] += 1.0 / winners;
+                if (winners == 1) {
+                    wins[i]++;
+                } else {
+                    ties[i]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances {@code indices} to the next k-combination of {@code [0, n)} in lexicographic
+     * order, returning false once every combination has been visited.
+     */
+    private static boolean nextCombination(final int[] indices, final int n) {
+        int k = indices.length;
+        int i = k - 1;
+        while (i >= 0 && indices[i] == n - k + i) {
+            i--;
+        }
+
+        if (i < 0) {
+            return false;
+        }
+
+        indices[i]++;
+        for (int j = i + 1; j < k; j++) {
+            indices[j] = indices[j - 1] + 1;
+        }
+
+        return true;
+    }
+
+    private static long combinations(final int n, final int k) {
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+
+        return result;
+    }
+}
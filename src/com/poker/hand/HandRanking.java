@@ -48,9 +48,12 @@ public class HandRanking implements Comparable<HandRanking> {
                     return currentGroupRankComparison;
                 }
             }
+
+            return 0;
         }
 
-        return 0;
+        // hand rank types are declared strongest first, so a lower ordinal is the better hand
+        return -handRankComparison;
     }
 
     public enum HandRankType {
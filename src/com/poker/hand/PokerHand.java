@@ -1,5 +1,6 @@
 package com.poker.hand;
 
+import com.poker.card.CardMask;
 import com.poker.card.PokerCard;
 import com.poker.card.PokerCard.CardSuit;
 import com.poker.hand.HandRanking.HandRankType;
@@ -15,6 +16,12 @@ public class PokerHand implements Comparable<PokerHand> {
     private static final int HAND_SIZE = 5;
     private List<PokerCard> cards;
 
+    /**
+     * The cards of this hand encoded as a {@link CardMask}, computed once so that equality and
+     * hashing don't have to walk the card list.
+     */
+    private final long cardMask;
+
     public PokerHand(final List<PokerCard> cards) {
         if (cards.size() != HAND_SIZE) {
             throw new IllegalArgumentException("A poker hand must contain five cards!");
@@ -23,6 +30,26 @@ public class PokerHand implements Comparable<PokerHand> {
         this.cards = new ArrayList();
         this.cards.addAll(cards);
         Collections.sort(this.cards, Collections.reverseOrder());
+        this.cardMask = CardMask.of(this.cards);
+    }
+
+    /**
+     * Returns the cards in this hand as a {@link CardMask}, one bit per card.
+     *
+     * @return the card mask of this hand
+     */
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    /**
+     * Returns the card mask of this hand with its suits relabelled into canonical order, so that
+     * hands which differ only by suit permutation share the same value.
+     *
+     * @return the suit-isomorphic canonical card mask of this hand
+     */
+    public long getCanonicalCardMask() {
+        return CardMask.canonical(cardMask);
     }
 
     private PokerCard getHighCard() {
@@ -33,6 +60,37 @@ public class PokerHand implements Comparable<PokerHand> {
         return getHighCard().getRank();
     }
 
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof PokerHand)) {
+            return false;
+        }
+
+        PokerHand otherHand = (PokerHand) other;
+        if (cardMask != otherHand.cardMask) {
+            return false;
+        }
+
+        // a real deck can't produce duplicate cards, but if it happens the mask alone can't tell
+        // hands apart, so fall back to the sorted card lists
+        for (int i = 0; i < HAND_SIZE; i++) {
+            if (!cards.get(i).equals(otherHand.cards.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cardMask);
+    }
+
     @Override
     public int compareTo(PokerHand other) {
         HandRanking thisRanking = this.getHandRanking();
@@ -136,12 +194,12 @@ public class PokerHand implements Comparable<PokerHand> {
         // Straights and flushes are special cases where there will be no two cards of the same rank
         if (isFlush) {
             if (isStraight) {
-                if (getHighCard().getRank() == PokerCard.Rank.ACE) {
+                if (getStraightHighRank() == PokerCard.Rank.ACE) {
                     return new HandRanking(
-                            HandRankType.ROYAL_FLUSH, getHighestRank());
+                            HandRankType.ROYAL_FLUSH, getStraightHighRank());
                 } else {
                     return new HandRanking(
-                            HandRankType.STRAIGHT_FLUSH, getHighestRank());
+                            HandRankType.STRAIGHT_FLUSH, getStraightHighRank());
                 }
             }
 
@@ -150,7 +208,8 @@ public class PokerHand implements Comparable<PokerHand> {
         }
 
         if (isStraight) {
-            return new HandRanking(HandRankType.STRAIGHT, singleRanks);
+            // only the top card matters between straights, and the wheel's top card is its five
+            return new HandRanking(HandRankType.STRAIGHT, getStraightHighRank());
         }
 
         return new HandRanking(HandRankType.SINGLE, singleRanks);
@@ -162,8 +221,10 @@ public class PokerHand implements Comparable<PokerHand> {
      * @return true if this hand contains a straight; false otherwise.
      */
     public boolean isStraight() {
+        // in the wheel (A-2-3-4-5) the ace plays low, so the run starts at the five instead
+        int start = isAceLow() ? 1 : 0;
         int diff = 0;
-        for (int i = 0; i < cards.size() - 1; i++) {
+        for (int i = start; i < cards.size() - 1; i++) {
             diff = cards.get(i).difference(cards.get(i + 1));
             if (diff != 1) {
                 return false;
@@ -173,6 +234,23 @@ public class PokerHand implements Comparable<PokerHand> {
         return true;
     }
 
+    /**
+     * Returns true if the hand could only be a straight with the ace played low, i.e. its
+     * highest card is an ace and its next highest a five.
+     */
+    private boolean isAceLow() {
+        return getHighestRank() == PokerCard.Rank.ACE
+                && cards.get(1).getRank() == PokerCard.Rank.FIVE;
+    }
+
+    /**
+     * Returns the highest rank of the straight this hand makes. Only meaningful if
+     * {@link #isStraight()} is true.
+     */
+    private PokerCard.Rank getStraightHighRank() {
+        return isAceLow() ? PokerCard.Rank.FIVE : getHighestRank();
+    }
+
     /**
      * Returns true if all cards in this hand are of a common suit; false otherwise.
      *
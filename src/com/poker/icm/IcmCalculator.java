@@ -0,0 +1,213 @@
+package com.poker.icm;
+
+/**
+ * Computes tournament equity with the Independent Chip Model, in which the chance of a player
+ * taking the highest unclaimed place is proportional to their share of the chips held by the
+ * players who haven't placed yet.
+ *
+ * <p>Rather than enumerating every finishing order, the calculation walks the subsets of players
+ * that have claimed the top places, stored as bitmasks. Every subset is visited once, so a table
+ * of ten players costs about {@code 2^10 * 10} steps. The working tables are allocated once per
+ * calculator, which makes instances cheap to call repeatedly but not thread-safe.
+ */
+public class IcmCalculator {
+    public static final int MAX_PLAYERS = 10;
+
+    private static final int WIN = 0;
+    private static final int TIE = 1;
+    private static final int LOSE = 2;
+
+    /**
+     * Slack for win and tie probabilities that were summed from sampled boards and so may exceed
+     * 1 by a rounding error.
+     */
+    private static final double PROBABILITY_TOLERANCE = 1e-9;
+
+    private final double[] payouts;
+
+    /**
+     * The hero's prize after each outcome of the last all-in priced, indexed by WIN, TIE and LOSE.
+     */
+    private final double[] outcomePrizes = new double[3];
+
+    /**
+     * The probability that exactly the players in a subset hold the top places, indexed by mask.
+     */
+    private final double[] subsetProbabilities = new double[1 << MAX_PLAYERS];
+
+    /**
+     * The total chips held by the players in a subset, indexed by mask.
+     */
+    private final long[] subsetStacks = new long[1 << MAX_PLAYERS];
+
+    /**
+     * @param payouts the prize for each place, starting with first; places beyond the end of the
+     *         array pay nothing
+     */
+    public IcmCalculator(final double[] payouts) {
+        if (payouts.length < 1 || payouts.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException(
+                    "There must be between 1 and " + MAX_PLAYERS + " paid places!");
+        }
+
+        this.payouts = payouts.clone();
+    }
+
+    /**
+     * Returns the prize equity of every player.
+     *
+     * @param stacks the chip count of each player; players with no chips take the lowest places
+     * @return the expected prize of each player, in the same order as {@code stacks}
+     */
+    public double[] equities(final long[] stacks) {
+        double[] equities = new double[stacks.length];
+        computeEquities(stacks, equities);
+
+        return equities;
+    }
+
+    /**
+     * Returns the hero's expected prize if the hero and villain get all their chips in. The hero
+     * wins the pot outright with probability {@code winProbability} and splits it with
+     * {@code tieProbability}; a split leaves every stack unchanged, so it is worth the same as
+     * folding rather than half a win.
+     *
+     * @param stacks the chip count of each player before the all-in
+     * @param hero the index of the player whose prize is returned
+     * @param villain the index of the opponent
+     * @param winProbability the hero's chance of winning the whole pot, in [0, 1]
+     * @param tieProbability the chance of the pot being split, in [0, 1 - winProbability]
+     * @return the hero's expected prize over every outcome of the all-in
+     */
+    public double allInEquity(final long[] stacks, final int hero, final int villain,
+            final double winProbability, final double tieProbability) {
+        computeAllInPrizes(stacks, hero, villain, winProbability, tieProbability);
+
+        double loseProbability = Math.max(0, 1 - winProbability - tieProbability);
+        return winProbability * outcomePrizes[WIN]
+                + tieProbability * outcomePrizes[TIE]
+                + loseProbability * outcomePrizes[LOSE];
+    }
+
+    /**
+     * Returns how much the hero's expected prize changes by getting all-in against the villain
+     * rather than folding. A positive value means the all-in is profitable. Blinds and antes are
+     * not modelled, so folding leaves the stacks unchanged.
+     *
+     * @param stacks the chip count of each player before the all-in
+     * @param hero the index of the deciding player
+     * @param villain the index of the opponent
+     * @param winProbability the hero's chance of winning the whole pot, in [0, 1]
+     * @param tieProbability the chance of the pot being split, in [0, 1 - winProbability]
+     * @return the expected prize of the all-in minus the expected prize of folding
+     */
+    public double allInEvDelta(final long[] stacks, final int hero, final int villain,
+            final double winProbability, final double tieProbability) {
+        double allInPrize = allInEquity(stacks, hero, villain, winProbability, tieProbability);
+
+        // folding leaves the stacks as they are, which is exactly the split-pot outcome
+        return allInPrize - outcomePrizes[TIE];
+    }
+
+    /**
+     * Fills {@link #outcomePrizes} with the hero's prize after winning, splitting and losing the
+     * all-in.
+     */
+    private void computeAllInPrizes(final long[] stacks, final int hero, final int villain,
+            final double winProbability, final double tieProbability) {
+        if (hero < 0 || hero >= stacks.length || villain < 0 || villain >= stacks.length) {
+            throw new IllegalArgumentException("Hero and villain must be seated at the table!");
+        }
+
+        if (hero == villain || stacks[hero] <= 0 || stacks[villain] <= 0) {
+            throw new IllegalArgumentException("An all-in needs two distinct players with chips!");
+        }
+
+        if (!(winProbability >= 0 && tieProbability >= 0
+                && winProbability + tieProbability <= 1 + PROBABILITY_TOLERANCE)) {
+            throw new IllegalArgumentException(
+                    "Win and tie probabilities must be non-negative and sum to at most 1!");
+        }
+
+        long[] resultStacks = stacks.clone();
+        double[] resultEquities = new double[stacks.length];
+        long amountAtRisk = Math.min(stacks[hero], stacks[villain]);
+
+        // the pot is split, so nobody's stack changes
+        computeEquities(resultStacks, resultEquities);
+        outcomePrizes[TIE] = resultEquities[hero];
+
+        // hero wins the pot
+        resultStacks[hero] = stacks[hero] + amountAtRisk;
+        resultStacks[villain] = stacks[villain] - amountAtRisk;
+        computeEquities(resultStacks, resultEquities);
+        outcomePrizes[WIN] = resultEquities[hero];
+
+        // hero loses the pot
+        resultStacks[hero] = stacks[hero] - amountAtRisk;
+        resultStacks[villain] = stacks[villain] + amountAtRisk;
+        computeEquities(resultStacks, resultEquities);
+        outcomePrizes[LOSE] = resultEquities[hero];
+    }
+
+    private void computeEquities(final long[] stacks, final double[] equities) {
+        int players = stacks.length;
+        if (players < 1 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException(
+                    "ICM supports between 1 and " + MAX_PLAYERS + " players!");
+        }
+
+        long totalChips = 0;
+        for (int i = 0; i < players; i++) {
+            if (stacks[i] < 0) {
+                throw new IllegalArgumentException("Stacks must not be negative!");
+            }
+            totalChips += stacks[i];
+        }
+
+        if (totalChips == 0) {
+            throw new IllegalArgumentException("At least one player must have chips!");
+        }
+
+        int subsets = 1 << players;
+        int paidPlaces = Math.min(payouts.length, players);
+        subsetProbabilities[0] = 1;
+        subsetStacks[0] = 0;
+        for (int mask = 1; mask < subsets; mask++) {
+            subsetProbabilities[mask] = 0;
+            // the mask minus its lowest player has already been summed
+            subsetStacks[mask] = subsetStacks[mask & (mask - 1)]
+                    + stacks[Integer.numberOfTrailingZeros(mask)];
+        }
+
+        for (int i = 0; i < players; i++) {
+            equities[i] = 0;
+        }
+
+        // adding a player to a mask always yields a larger mask, so ascending order visits every
+        // subset after all of the subsets it can be reached from
+        for (int mask = 0; mask < subsets; mask++) {
+            double probability = subsetProbabilities[mask];
+            int place = Integer.bitCount(mask);
+            if (probability == 0 || place >= paidPlaces) {
+                continue;
+            }
+
+            long remainingChips = totalChips - subsetStacks[mask];
+            int remainingPlayers = players - place;
+
+            for (int i = 0; i < players; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    continue;
+                }
+
+                // once only players without chips remain, they share the leftover places evenly
+                double nextProbability = remainingChips == 0
+                        ? probability / remainingPlayers
+                        : probability * stacks[i] / remainingChips;
+                equities[i] += nextProbability * payouts[place];
+                subsetProbabilities[mask | (1 << i)] += nextProbability;
+            }
+        }
+    }
+}
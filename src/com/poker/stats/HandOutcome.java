@@ -0,0 +1,68 @@
+package com.poker.stats;
+
+import com.poker.hand.PokerHand;
+
+/**
+ * The outcome of a single evaluated hand from the point of view of one player. Instances are
+ * the unit of input consumed by a {@link PlayerStatisticsAggregator}.
+ */
+public class HandOutcome {
+    private final String playerId;
+    private final PokerHand hand;
+    private final boolean wentToShowdown;
+    private final double equity;
+    private final double potShare;
+
+    /**
+     * @param playerId the player the hand belongs to
+     * @param hand the player's evaluated five-card hand
+     * @param wentToShowdown whether the hand was shown down
+     * @param equity the player's expected share of the pot when the money went in, in [0, 1]
+     * @param potShare the share of the pot the player actually won, in [0, 1]
+     */
+    public HandOutcome(final String playerId, final PokerHand hand, final boolean wentToShowdown,
+            final double equity, final double potShare) {
+        if (playerId == null || hand == null) {
+            throw new IllegalArgumentException("A hand outcome must have a player and a hand!");
+        }
+
+        if (!(equity >= 0 && equity <= 1) || !(potShare >= 0 && potShare <= 1)) {
+            throw new IllegalArgumentException("Equity and pot share must be between 0 and 1!");
+        }
+
+        this.playerId = playerId;
+        this.hand = hand;
+        this.wentToShowdown = wentToShowdown;
+        this.equity = equity;
+        this.potShare = potShare;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public PokerHand getHand() {
+        return hand;
+    }
+
+    public boolean wentToShowdown() {
+        return wentToShowdown;
+    }
+
+    public double getEquity() {
+        return equity;
+    }
+
+    public double getPotShare() {
+        return potShare;
+    }
+
+    /**
+     * Returns true if the player won at least part of the pot; false otherwise.
+     *
+     * @return true if the player won at least part of the pot; false otherwise.
+     */
+    public boolean isWin() {
+        return potShare > 0;
+    }
+}
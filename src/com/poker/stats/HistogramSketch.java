@@ -0,0 +1,91 @@
+package com.poker.stats;
+
+/**
+ * A fixed-width histogram over a bounded range, used to answer percentile queries in constant
+ * memory. Values outside the range are clamped to its ends. Quantiles are accurate to within one
+ * bucket width, and two sketches with the same bounds and bucket count merge exactly.
+ */
+public class HistogramSketch {
+    private final double lowerBound;
+    private final double upperBound;
+    private final long[] bucketCounts;
+    private long count;
+
+    public HistogramSketch(final double lowerBound, final double upperBound, final int buckets) {
+        if (!(upperBound > lowerBound) || buckets < 1) {
+            throw new IllegalArgumentException("A histogram needs a non-empty range and buckets!");
+        }
+
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.bucketCounts = new long[buckets];
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void offer(final double value) {
+        bucketCounts[bucketOf(value)]++;
+        count++;
+    }
+
+    /**
+     * Returns an estimate of the value below which the given fraction of offered values fall.
+     *
+     * @param quantile the fraction to look up, in [0, 1]
+     * @return the midpoint of the bucket containing the quantile, or NaN if the sketch is empty
+     */
+    public double quantile(final double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1!");
+        }
+
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        // rank of the target value, 1-based so that quantile 0 lands in the first non-empty bucket
+        long targetRank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        int bucket = 0;
+        for (; bucket < bucketCounts.length - 1; bucket++) {
+            seen += bucketCounts[bucket];
+            if (seen >= targetRank) {
+                break;
+            }
+        }
+
+        return lowerBound + (bucket + 0.5) * bucketWidth();
+    }
+
+    /**
+     * Adds the counts of another sketch into this one.
+     *
+     * @param other a sketch with the same bounds and bucket count as this one
+     */
+    public void merge(final HistogramSketch other) {
+        if (other.lowerBound != lowerBound || other.upperBound != upperBound
+                || other.bucketCounts.length != bucketCounts.length) {
+            throw new IllegalArgumentException("Only histograms of equal shape can be merged!");
+        }
+
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] += other.bucketCounts[i];
+        }
+        count += other.count;
+    }
+
+    private double bucketWidth() {
+        return (upperBound - lowerBound) / bucketCounts.length;
+    }
+
+    private int bucketOf(final double value) {
+        if (!(value > lowerBound)) {
+            return 0;
+        }
+
+        int bucket = (int) ((value - lowerBound) / bucketWidth());
+        return Math.min(bucket, bucketCounts.length - 1);
+    }
+}
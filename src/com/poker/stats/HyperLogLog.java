@@ -0,0 +1,101 @@
+package com.poker.stats;
+
+/**
+ * A HyperLogLog sketch for estimating the number of distinct {@code long} values offered to it.
+ * Memory is fixed at {@code 2^precision} bytes regardless of how many values are offered, and two
+ * sketches of the same precision can be merged without loss.
+ */
+public class HyperLogLog {
+    private static final int MIN_PRECISION = 7;
+    private static final int MAX_PRECISION = 16;
+    private static final int DEFAULT_PRECISION = 10;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    public HyperLogLog(final int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + "!");
+        }
+
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public void offer(final long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (64 - precision));
+
+        // the sentinel bit caps the run of leading zeros once the index bits are shifted out
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values offered to this sketch.
+     *
+     * @return the estimated number of distinct values
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeroRegisters = 0;
+
+        for (int i = 0; i < m; i++) {
+            sum += 1.0 / (1L << registers[i]);
+            if (registers[i] == 0) {
+                zeroRegisters++;
+            }
+        }
+
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+
+        // the raw estimate is biased for small cardinalities, so fall back to linear counting
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            estimate = m * Math.log((double) m / zeroRegisters);
+        }
+
+        return Math.round(estimate);
+    }
+
+    /**
+     * Folds the registers of another sketch into this one. Afterwards this sketch estimates the
+     * number of distinct values offered to either sketch.
+     *
+     * @param other a sketch with the same precision as this one
+     */
+    public void merge(final HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Only sketches of equal precision can be merged!");
+        }
+
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * The SplitMix64 finalizer; spreads structured inputs such as card masks across all 64 bits.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,141 @@
+package com.poker.stats;
+
+import com.poker.hand.HandRanking.HandRankType;
+import com.poker.hand.PokerHand;
+
+/**
+ * Running statistics for a single player. Every counter is a primitive or a fixed-size sketch, so
+ * the memory used does not grow with the number of hands recorded, and partial statistics built
+ * by separate workers can be combined with {@link #merge(PlayerStatistics)}.
+ */
+public class PlayerStatistics {
+    private static final int EQUITY_BUCKETS = 100;
+
+    private final String playerId;
+
+    /**
+     * Hand counts indexed by {@link HandRankType#ordinal()}.
+     */
+    private final long[] handRankCounts = new long[HandRankType.values().length];
+    private final HistogramSketch showdownEquities = new HistogramSketch(0, 1, EQUITY_BUCKETS);
+    private final HyperLogLog distinctHands = new HyperLogLog();
+
+    private long handsPlayed;
+    private long showdowns;
+    private long showdownWins;
+    private double expectedPotShares;
+    private double realizedPotShares;
+
+    public PlayerStatistics(final String playerId) {
+        this.playerId = playerId;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void record(final HandOutcome outcome) {
+        PokerHand hand = outcome.getHand();
+        handRankCounts[hand.getHandRanking().getHandRankType().ordinal()]++;
+        distinctHands.offer(hand.getCardMask());
+        handsPlayed++;
+
+        expectedPotShares += outcome.getEquity();
+        realizedPotShares += outcome.getPotShare();
+
+        if (outcome.wentToShowdown()) {
+            showdowns++;
+            showdownEquities.offer(outcome.getEquity());
+            if (outcome.isWin()) {
+                showdownWins++;
+            }
+        }
+    }
+
+    /**
+     * Adds everything recorded by another instance for the same player into this one.
+     *
+     * @param other statistics for the same player
+     */
+    public void merge(final PlayerStatistics other) {
+        if (!playerId.equals(other.playerId)) {
+            throw new IllegalArgumentException("Statistics of different players can't be merged!");
+        }
+
+        for (int i = 0; i < handRankCounts.length; i++) {
+            handRankCounts[i] += other.handRankCounts[i];
+        }
+        showdownEquities.merge(other.showdownEquities);
+        distinctHands.merge(other.distinctHands);
+
+        handsPlayed += other.handsPlayed;
+        showdowns += other.showdowns;
+        showdownWins += other.showdownWins;
+        expectedPotShares += other.expectedPotShares;
+        realizedPotShares += other.realizedPotShares;
+    }
+
+    public long getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    public long getShowdowns() {
+        return showdowns;
+    }
+
+    public long getShowdownWins() {
+        return showdownWins;
+    }
+
+    public long getHandRankCount(final HandRankType handRankType) {
+        return handRankCounts[handRankType.ordinal()];
+    }
+
+    /**
+     * Returns the fraction of recorded hands that fell into the given category.
+     *
+     * @param handRankType the category to look up
+     * @return the frequency of the category, or 0 if no hands have been recorded
+     */
+    public double getHandRankFrequency(final HandRankType handRankType) {
+        return handsPlayed == 0 ? 0 : (double) getHandRankCount(handRankType) / handsPlayed;
+    }
+
+    /**
+     * Returns the fraction of showdowns in which the player won at least part of the pot.
+     *
+     * @return the showdown win rate, or 0 if the player has never reached showdown
+     */
+    public double getShowdownWinRate() {
+        return showdowns == 0 ? 0 : (double) showdownWins / showdowns;
+    }
+
+    /**
+     * Returns the ratio of pot shares actually won to pot shares expected from equity. Values
+     * above 1 mean the player won more than their equity entitled them to.
+     *
+     * @return the equity realized, or 0 if the player has had no equity
+     */
+    public double getEquityRealized() {
+        return expectedPotShares == 0 ? 0 : realizedPotShares / expectedPotShares;
+    }
+
+    /**
+     * Returns an estimate of the given percentile of the player's equity at showdown.
+     *
+     * @param quantile the fraction to look up, in [0, 1]
+     * @return the estimated equity, or NaN if the player has never reached showdown
+     */
+    public double getShowdownEquityQuantile(final double quantile) {
+        return showdownEquities.quantile(quantile);
+    }
+
+    /**
+     * Returns an estimate of the number of distinct five-card hands the player has held.
+     *
+     * @return the estimated number of distinct hands
+     */
+    public long getDistinctHandsEstimate() {
+        return distinctHands.estimate();
+    }
+}
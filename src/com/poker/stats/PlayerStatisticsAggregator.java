@@ -0,0 +1,64 @@
+package com.poker.stats;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consumes a stream of {@link HandOutcome}s and keeps a {@link PlayerStatistics} per player.
+ *
+ * <p>This class is not thread-safe. To process hands in parallel, give each worker its own
+ * aggregator and combine them with {@link #merge(PlayerStatisticsAggregator)} once they finish.
+ */
+public class PlayerStatisticsAggregator {
+    private final Map<String, PlayerStatistics> playerIdToStatisticsMap = new HashMap<>();
+
+    public void accept(final HandOutcome outcome) {
+        PlayerStatistics statistics = playerIdToStatisticsMap.get(outcome.getPlayerId());
+
+        if (statistics == null) {
+            // first hand seen for this player
+            statistics = new PlayerStatistics(outcome.getPlayerId());
+            playerIdToStatisticsMap.put(outcome.getPlayerId(), statistics);
+        }
+
+        statistics.record(outcome);
+    }
+
+    /**
+     * Folds the statistics gathered by another aggregator into this one. Nothing is shared with
+     * the other aggregator, so it can keep accepting hands without affecting this one.
+     *
+     * @param other the aggregator to merge in
+     */
+    public void merge(final PlayerStatisticsAggregator other) {
+        for (Map.Entry<String, PlayerStatistics> entry
+                : other.playerIdToStatisticsMap.entrySet()) {
+            PlayerStatistics statistics = playerIdToStatisticsMap.get(entry.getKey());
+
+            if (statistics == null) {
+                // this aggregator never saw the player, so start from empty statistics rather
+                // than adopting the other's instance
+                statistics = new PlayerStatistics(entry.getKey());
+                playerIdToStatisticsMap.put(entry.getKey(), statistics);
+            }
+
+            statistics.merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the statistics for the given player.
+     *
+     * @param playerId the player to look up
+     * @return the player's statistics, or null if no hands have been seen for the player
+     */
+    public PlayerStatistics getStatistics(final String playerId) {
+        return playerIdToStatisticsMap.get(playerId);
+    }
+
+    public Set<String> getPlayerIds() {
+        return Collections.unmodifiableSet(playerIdToStatisticsMap.keySet());
+    }
+}
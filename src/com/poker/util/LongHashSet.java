@@ -0,0 +1,185 @@
+package com.poker.util;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash set of primitive {@code long}s. Values are stored inline in a single
+ * array with linear probing, so adding or looking up a value never allocates, unlike a
+ * {@code HashSet<Long>} which boxes every element. This makes it suitable for deduplicating large
+ * volumes of card masks.
+ */
+public class LongHashSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * The largest table a Java array can hold with a power-of-two length. A full-size table is
+     * filled past the load factor, up to one free slot, rather than grown any further.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The most values a set is sized for up front: one per slot of a full-size table, minus the
+     * free slot. Zero takes no slot, so a set holding it can reach one more value than this.
+     */
+    private static final int MAX_EXPECTED_SIZE = MAX_CAPACITY - 1;
+
+    /**
+     * Marks an empty slot. Since zero is also a valid value, its membership is tracked separately.
+     */
+    private static final long EMPTY = 0;
+
+    private long[] slots;
+    private boolean containsEmpty;
+    private int size;
+    private int resizeThreshold;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of values the set should hold before it needs to grow, at
+     *         most {@code 2^30 - 1}
+     */
+    public LongHashSet(final int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_EXPECTED_SIZE) {
+            throw new IllegalArgumentException(
+                    "Expected size must be between 0 and " + MAX_EXPECTED_SIZE + "!");
+        }
+
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a value to the set.
+     *
+     * @param value the value to add
+     * @return true if the value was not already present; false otherwise.
+     * @throws IllegalStateException if the set is already at its maximum capacity
+     */
+    public boolean add(final long value) {
+        if (value == EMPTY) {
+            if (containsEmpty) {
+                return false;
+            }
+
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+
+        int mask = slots.length - 1;
+        int index = indexFor(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // zero is tracked outside the table, so only the other values count towards the threshold
+        int occupiedSlots = containsEmpty ? size - 1 : size;
+        if (occupiedSlots >= resizeThreshold) {
+            if (slots.length == MAX_CAPACITY) {
+                throw new IllegalStateException(
+                        "LongHashSet is full; it can't grow past " + size + " values!");
+            }
+
+            // the free slot found above moves when the table grows, so probe for it again
+            rehash(slots.length * 2);
+            mask = slots.length - 1;
+            index = indexFor(value, mask);
+            while (slots[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+        }
+
+        slots[index] = value;
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Returns true if the value is in the set; false otherwise.
+     *
+     * @param value the value to look up
+     * @return true if the value is in the set; false otherwise.
+     */
+    public boolean contains(final long value) {
+        if (value == EMPTY) {
+            return containsEmpty;
+        }
+
+        int mask = slots.length - 1;
+        int index = indexFor(value, mask);
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes every value while keeping the current capacity, so the set can be reused.
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        containsEmpty = false;
+        size = 0;
+    }
+
+    private void rehash(final int newLength) {
+        long[] oldSlots = slots;
+        allocate(newLength);
+
+        int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            long value = oldSlots[i];
+            if (value != EMPTY) {
+                int index = indexFor(value, mask);
+                while (slots[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private void allocate(final int length) {
+        slots = new long[length];
+        // a full-size table keeps one slot empty so that probing always terminates
+        resizeThreshold =
+                length == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (length * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        int length = DEFAULT_CAPACITY;
+        while (length < MAX_CAPACITY && length * LOAD_FACTOR < expectedSize) {
+            length <<= 1;
+        }
+
+        return length;
+    }
+
+    /**
+     * Card masks only use a few low bits each, so the value is mixed before being reduced to an
+     * index to keep neighbouring masks from clustering.
+     */
+    private static int indexFor(final long value, final int mask) {
+        long hash = value * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
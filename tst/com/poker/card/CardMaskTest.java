@@ -0,0 +1,96 @@
+package com.poker.card;
+
+import com.poker.card.PokerCard.CardSuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CardMaskTest {
+    @Test
+    public void of_everyCard_setsDistinctBit() {
+        long deckMask = 0;
+        for (PokerCard.Rank rank : PokerCard.Rank.values()) {
+            for (CardSuit suit : CardSuit.values()) {
+                long cardMask = new PokerCard(rank, suit).getMask();
+                assertEquals(1, Long.bitCount(cardMask));
+                assertEquals(0, deckMask & cardMask);
+                deckMask |= cardMask;
+            }
+        }
+
+        assertEquals((1L << 52) - 1, deckMask);
+    }
+
+    @Test
+    public void canonical_suitPermutedBoards_returnsSameMask() {
+        long board = CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.CLUBS)));
+        long permutedBoard = CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS)));
+
+        assertNotEquals(board, permutedBoard);
+        assertEquals(CardMask.canonical(board), CardMask.canonical(permutedBoard));
+        assertEquals(3, Long.bitCount(CardMask.canonical(board)));
+    }
+
+    @Test
+    public void canonical_differentSuitStructure_returnsDifferentMask() {
+        long monotoneBoard = CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.HEARTS)));
+        long twoToneBoard = CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.CLUBS)));
+
+        assertNotEquals(CardMask.canonical(monotoneBoard), CardMask.canonical(twoToneBoard));
+    }
+
+    @Test
+    public void suitBlock_mixedSuits_returnsRanksOfRequestedSuit() {
+        long mask = CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.CLUBS)));
+
+        long expectedHearts = (1L << PokerCard.Rank.TWO.ordinal())
+                | (1L << PokerCard.Rank.ACE.ordinal());
+        assertEquals(expectedHearts, CardMask.suitBlock(mask, CardSuit.HEARTS.ordinal()));
+        assertEquals(1L << PokerCard.Rank.KING.ordinal(),
+                CardMask.suitBlock(mask, CardSuit.CLUBS.ordinal()));
+        assertEquals(0, CardMask.suitBlock(mask, CardSuit.SPADES.ordinal()));
+    }
+
+    @Test
+    public void suitBlock_suitOrdinalOutOfRange_exceptionThrown() {
+        try {
+            CardMask.suitBlock(0, CardSuit.values().length);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("There are only four suits");
+    }
+
+    // --------------
+    // Helper Methods
+
+    private static List<PokerCard> createCards(PokerCard... cards) {
+        List<PokerCard> retVal = new ArrayList();
+        for (PokerCard card : cards) {
+            retVal.add(card);
+        }
+
+        return retVal;
+    }
+}
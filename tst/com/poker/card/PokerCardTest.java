@@ -0,0 +1,49 @@
+package com.poker.card;
+
+import com.poker.card.PokerCard.CardSuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PokerCardTest {
+    @Test
+    public void equals_sameRankAndSuit_returnsTrue() {
+        PokerCard aceOfSpades = new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES);
+        PokerCard otherAceOfSpades = new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES);
+        assertEquals(aceOfSpades, otherAceOfSpades);
+        assertEquals(aceOfSpades.hashCode(), otherAceOfSpades.hashCode());
+    }
+
+    @Test
+    public void equals_differentSuit_returnsFalse() {
+        PokerCard aceOfSpades = new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES);
+        assertNotEquals(aceOfSpades, new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS));
+        assertNotEquals(aceOfSpades, new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES));
+        assertFalse(aceOfSpades.equals(null));
+    }
+
+    @Test
+    public void hashCode_everyCard_isDistinct() {
+        Set<Integer> hashCodes = new HashSet();
+        for (PokerCard.Rank rank : PokerCard.Rank.values()) {
+            for (CardSuit suit : CardSuit.values()) {
+                assertTrue(hashCodes.add(new PokerCard(rank, suit).hashCode()));
+            }
+        }
+
+        assertEquals(52, hashCodes.size());
+    }
+
+    @Test
+    public void compareTo_sameRank_suitBreaksTie() {
+        PokerCard aceOfSpades = new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES);
+        PokerCard aceOfClubs = new PokerCard(PokerCard.Rank.ACE, CardSuit.CLUBS);
+        assertTrue(aceOfSpades.compareTo(aceOfClubs) > 0);
+    }
+}
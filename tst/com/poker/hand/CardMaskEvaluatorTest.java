@@ -0,0 +1,151 @@
+package com.poker.hand;
+
+import com.poker.card.CardMask;
+import com.poker.card.PokerCard;
+import com.poker.card.PokerCard.CardSuit;
+import com.poker.hand.HandRanking.HandRankType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CardMaskEvaluatorTest {
+    @Test
+    public void evaluate_wheel_losesToSixHighStraight() {
+        int wheel = CardMaskEvaluator.evaluate(CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.THREE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.FIVE, CardSuit.HEARTS))));
+        int sixHigh = CardMaskEvaluator.evaluate(CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.SIX, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.THREE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.FIVE, CardSuit.HEARTS))));
+
+        assertEquals(HandRankType.STRAIGHT, CardMaskEvaluator.getHandRankType(wheel));
+        assertTrue(wheel < sixHigh);
+    }
+
+    @Test
+    public void evaluate_twoTripletsInSevenCards_makesFullHouse() {
+        int score = CardMaskEvaluator.evaluate(CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS))));
+
+        assertEquals(HandRankType.FULL_HOUSE, CardMaskEvaluator.getHandRankType(score));
+    }
+
+    @Test
+    public void evaluate_sevenCards_picksStrongestHand() {
+        int score = CardMaskEvaluator.evaluate(CardMask.of(createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.JACK, CardSuit.DIAMONDS))));
+
+        assertEquals(HandRankType.THREE_OF_A_KIND, CardMaskEvaluator.getHandRankType(score));
+    }
+
+    /**
+     * CardMaskEvaluator repeats the ranking rules of PokerHand, so this is the guard that keeps
+     * them from drifting apart. Besides a full deck, hands are drawn from thinned decks (two suits
+     * of the high ranks, or a handful of ranks) so that every hand rank type, royal flushes
+     * included, comes up.
+     */
+    @Test
+    public void evaluate_randomSevenCardHands_agreesWithPokerHand() {
+        Random random = new Random(11);
+        Set<HandRankType> handRankTypesSeen = EnumSet.noneOf(HandRankType.class);
+
+        for (int deckKind = 0; deckKind < 4; deckKind++) {
+            List<PokerCard> deck = new ArrayList();
+            for (PokerCard.Rank rank : PokerCard.Rank.values()) {
+                for (CardSuit suit : CardSuit.values()) {
+                    boolean keep = deckKind == 0
+                            || (deckKind == 1 && suit.ordinal() < 2 && rank.ordinal() > 3)
+                            || (deckKind == 2 && (rank.ordinal() < 4 || rank.ordinal() > 7))
+                            || (deckKind == 3 && rank.ordinal() % 3 == 0);
+                    if (keep) {
+                        deck.add(new PokerCard(rank, suit));
+                    }
+                }
+            }
+
+            for (int i = 0; i < 2000; i++) {
+                Collections.shuffle(deck, random);
+                List<PokerCard> first = new ArrayList(deck.subList(0, 7));
+                List<PokerCard> second = new ArrayList(deck.subList(7, 14));
+
+                HandRanking firstRanking = bestRanking(first);
+                HandRanking secondRanking = bestRanking(second);
+                int firstScore = CardMaskEvaluator.evaluate(CardMask.of(first));
+                int secondScore = CardMaskEvaluator.evaluate(CardMask.of(second));
+
+                assertEquals(firstRanking.getHandRankType(),
+                        CardMaskEvaluator.getHandRankType(firstScore));
+                assertEquals(Integer.signum(firstRanking.compareTo(secondRanking)),
+                        Integer.signum(Integer.compare(firstScore, secondScore)));
+                handRankTypesSeen.add(firstRanking.getHandRankType());
+            }
+        }
+
+        assertEquals(EnumSet.allOf(HandRankType.class), handRankTypesSeen);
+    }
+
+    // --------------
+    // Helper Methods
+
+    /**
+     * The reference ranking: the strongest {@link PokerHand} among every five of the seven cards.
+     */
+    private static HandRanking bestRanking(List<PokerCard> sevenCards) {
+        HandRanking best = null;
+        List<PokerCard> handCards = new ArrayList();
+
+        // each five-card hand leaves out exactly two of the seven cards
+        for (int skipFirst = 0; skipFirst < sevenCards.size(); skipFirst++) {
+            for (int skipSecond = skipFirst + 1; skipSecond < sevenCards.size(); skipSecond++) {
+                handCards.clear();
+                for (int i = 0; i < sevenCards.size(); i++) {
+                    if (i != skipFirst && i != skipSecond) {
+                        handCards.add(sevenCards.get(i));
+                    }
+                }
+
+                HandRanking ranking = new PokerHand(handCards).getHandRanking();
+                if (best == null || ranking.compareTo(best) > 0) {
+                    best = ranking;
+                }
+            }
+        }
+
+        return best;
+    }
+
+    private static List<PokerCard> createCards(PokerCard... cards) {
+        List<PokerCard> retVal = new ArrayList();
+        for (PokerCard card : cards) {
+            retVal.add(card);
+        }
+
+        return retVal;
+    }
+}
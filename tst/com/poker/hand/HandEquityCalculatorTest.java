@@ -0,0 +1,179 @@
+package com.poker.hand;
+
+import com.poker.card.PokerCard;
+import com.poker.card.PokerCard.CardSuit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class HandEquityCalculatorTest {
+    private final List<PokerCard> pocketAces = createCards(
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS)
+    );
+
+    private final List<PokerCard> pocketKings = createCards(
+            new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS)
+    );
+
+    private final List<PokerCard> aceKingOffsuit = createCards(
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.KING, CardSuit.DIAMONDS)
+    );
+
+    private final List<PokerCard> otherAceKingOffsuit = createCards(
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+            new PokerCard(PokerCard.Rank.KING, CardSuit.CLUBS)
+    );
+
+    private final List<PokerCard> dryBoard = createCards(
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.NINE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.JACK, CardSuit.DIAMONDS)
+    );
+
+    @Test
+    public void calculate_oneCardToCome_enumeratesRiverExactly() {
+        HandEquity equity = HandEquityCalculator.calculate(
+                createHoleCards(pocketAces, pocketKings), dryBoard, 1000, new Random(0));
+
+        // of the 44 unseen rivers, only the two remaining kings win for pocket kings
+        assertEquals(42.0 / 44, equity.getPotEquity(0), 1e-9);
+        assertEquals(2.0 / 44, equity.getPotEquity(1), 1e-9);
+        assertEquals(42.0 / 44, equity.getWinProbability(0), 1e-9);
+        assertEquals(0, equity.getTieProbability(0), 1e-9);
+    }
+
+    @Test
+    public void calculate_wheelOnCompleteBoard_winsOutright() {
+        List<PokerCard> aceTwo = createCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.HEARTS));
+        List<PokerCard> kingQueen = createCards(
+                new PokerCard(PokerCard.Rank.KING, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.QUEEN, CardSuit.CLUBS));
+        List<PokerCard> board = createCards(
+                new PokerCard(PokerCard.Rank.THREE, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.FIVE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.DIAMONDS));
+
+        HandEquity equity = HandEquityCalculator.calculate(
+                createHoleCards(aceTwo, kingQueen), board, 1, new Random(0));
+        assertEquals(1, equity.getPotEquity(0), 1e-9);
+        assertEquals(0, equity.getPotEquity(1), 1e-9);
+    }
+
+    @Test
+    public void calculate_sampledBoards_favoursStrongerHand() {
+        HandEquity equity = HandEquityCalculator.calculate(
+                createHoleCards(pocketAces, pocketKings), new ArrayList<>(), 2000, new Random(42));
+
+        assertEquals(1, equity.getPotEquity(0) + equity.getPotEquity(1), 1e-9);
+        assertTrue(equity.getPotEquity(0) > 0.7 && equity.getPotEquity(0) < 0.9,
+                "equity was " + equity.getPotEquity(0));
+    }
+
+    @Test
+    public void calculate_broadwayForBothOnTurn_everyRiverSplits() {
+        List<PokerCard> board = createCards(
+                new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.JACK, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.TEN, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.TWO, CardSuit.CLUBS));
+
+        HandEquity equity = HandEquityCalculator.calculate(
+                createHoleCards(aceKingOffsuit, otherAceKingOffsuit), board, 1000, new Random(0));
+
+        // neither player can make a flush, so both play the ace-high straight on every river
+        assertEquals(0, equity.getWinProbability(0), 1e-9);
+        assertEquals(1, equity.getTieProbability(0), 1e-9);
+        assertEquals(1, equity.getTieProbability(1), 1e-9);
+        assertEquals(0.5, equity.getPotEquity(0), 1e-9);
+    }
+
+    @Test
+    public void calculate_aceKingAgainstAceKing_mostlySplits() {
+        HandEquity equity = HandEquityCalculator.calculate(
+                createHoleCards(aceKingOffsuit, otherAceKingOffsuit), new ArrayList<>(), 5000,
+                new Random(3));
+
+        double heroLoses = 1 - equity.getWinProbability(0) - equity.getTieProbability(0);
+        assertTrue(equity.getTieProbability(0) > 0.9, "tie was " + equity.getTieProbability(0));
+        assertEquals(equity.getTieProbability(0), equity.getTieProbability(1), 1e-9);
+        assertEquals(equity.getWinProbability(1), heroLoses, 1e-9);
+        assertEquals(equity.getWinProbability(0) + equity.getTieProbability(0) / 2,
+                equity.getPotEquity(0), 1e-9);
+    }
+
+    @Test
+    public void calculate_duplicateCard_exceptionThrown() {
+        try {
+            HandEquityCalculator.calculate(createHoleCards(pocketAces, pocketAces), dryBoard, 1000,
+                    new Random(0));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("A card can't be held by two players");
+    }
+
+    @Test
+    public void calculate_threeHoleCards_exceptionThrown() {
+        List<PokerCard> threeCards = new ArrayList(pocketKings);
+        threeCards.add(new PokerCard(PokerCard.Rank.QUEEN, CardSuit.CLUBS));
+
+        try {
+            HandEquityCalculator.calculate(createHoleCards(pocketAces, threeCards), dryBoard, 1000,
+                    new Random(0));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Players must hold exactly two cards");
+    }
+
+    @Test
+    public void calculate_oneHoleCard_exceptionThrown() {
+        List<PokerCard> oneCard = createCards(new PokerCard(PokerCard.Rank.QUEEN, CardSuit.CLUBS));
+
+        try {
+            HandEquityCalculator.calculate(createHoleCards(pocketAces, oneCard), dryBoard, 1000,
+                    new Random(0));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Players must hold exactly two cards");
+    }
+
+    // --------------
+    // Helper Methods
+
+    private static List<PokerCard> createCards(PokerCard... cards) {
+        List<PokerCard> retVal = new ArrayList();
+        for (PokerCard card : cards) {
+            retVal.add(card);
+        }
+
+        return retVal;
+    }
+
+    private static List<List<PokerCard>> createHoleCards(List<PokerCard> first,
+            List<PokerCard> second) {
+        List<List<PokerCard>> retVal = new ArrayList();
+        retVal.add(first);
+        retVal.add(second);
+
+        return retVal;
+    }
+}
@@ -7,10 +7,12 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -112,6 +114,30 @@ public class PokerHandTest {
             new PokerCard(PokerCard.Rank.SIX, CardSuit.CLUBS)
     );
 
+    private final List<PokerCard> wheelStraightCards = createPokerHandCards(
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.THREE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.HEARTS)
+    );
+
+    private final List<PokerCard> wheelStraightFlushCards = createPokerHandCards(
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.THREE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.FOUR, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.CLUBS)
+    );
+
+    private final List<PokerCard> sixHighStraightFlushCards = createPokerHandCards(
+            new PokerCard(PokerCard.Rank.SIX, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.THREE, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.DIAMONDS)
+    );
+
     private final List<PokerCard> highStraightCards = createPokerHandCards(
             new PokerCard(PokerCard.Rank.NINE, CardSuit.HEARTS),
             new PokerCard(PokerCard.Rank.KING, CardSuit.DIAMONDS),
@@ -268,6 +294,49 @@ public class PokerHandTest {
         assertEquals(HandRankType.STRAIGHT, lowStraight.getHandRanking().getHandRankType());
     }
 
+    @Test
+    public void getHandRanking_wheel_returnsFiveHighStraight() {
+        PokerHand wheel = new PokerHand(wheelStraightCards);
+        HandRanking handRanking = wheel.getHandRanking();
+        assertTrue(wheel.isStraight());
+        assertEquals(HandRankType.STRAIGHT, handRanking.getHandRankType());
+        assertEquals(PokerCard.Rank.FIVE, handRanking.getGroupRanks().get(0));
+    }
+
+    @Test
+    public void compareTo_wheelAgainstSixHighStraight_returnsLower() {
+        PokerHand wheel = new PokerHand(wheelStraightCards);
+        PokerHand lowStraight = new PokerHand(lowStraightCards);
+        assertTrue(wheel.compareTo(lowStraight) < 0);
+        assertTrue(lowStraight.compareTo(wheel) > 0);
+    }
+
+    @Test
+    public void getHandRanking_wheelStraightFlush_returnsFiveHighStraightFlush() {
+        PokerHand wheelStraightFlush = new PokerHand(wheelStraightFlushCards);
+        HandRanking handRanking = wheelStraightFlush.getHandRanking();
+        assertEquals(HandRankType.STRAIGHT_FLUSH, handRanking.getHandRankType());
+        assertEquals(PokerCard.Rank.FIVE, handRanking.getGroupRanks().get(0));
+    }
+
+    @Test
+    public void compareTo_wheelStraightFlushAgainstSixHigh_returnsLower() {
+        PokerHand wheelStraightFlush = new PokerHand(wheelStraightFlushCards);
+        PokerHand sixHighStraightFlush = new PokerHand(sixHighStraightFlushCards);
+        assertTrue(wheelStraightFlush.compareTo(sixHighStraightFlush) < 0);
+    }
+
+    @Test
+    public void isStraight_aceHighWithGap_returnsFalse() {
+        PokerHand aceFiveHigh = new PokerHand(createPokerHandCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.FIVE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.FOUR, CardSuit.CLUBS),
+                new PokerCard(PokerCard.Rank.THREE, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.SIX, CardSuit.HEARTS)));
+        assertFalse(aceFiveHigh.isStraight());
+    }
+
     @Test
     public void compareTo_differentStraightFlushes_returnsHigher() {
         PokerHand lowStraightFlush = new PokerHand(lowStraightFlushCards);
@@ -345,6 +414,70 @@ public class PokerHandTest {
         assertTrue(highSingles.compareTo(lowSingles) > 0);
     }
 
+    @Test
+    public void compareTo_differentHandRankTypes_returnsHigher() {
+        PokerHand highPair = new PokerHand(highPairCards);
+        PokerHand lowFlush = new PokerHand(lowFlushCards);
+        PokerHand royalFlush = new PokerHand(royalFlushHeartsCards);
+        assertTrue(lowFlush.compareTo(highPair) > 0);
+        assertTrue(highPair.compareTo(lowFlush) < 0);
+        assertTrue(royalFlush.compareTo(lowFlush) > 0);
+    }
+
+    @Test
+    public void equals_sameCardsInDifferentOrder_returnsTrue() {
+        PokerHand royalFlushHearts = new PokerHand(royalFlushHeartsCards);
+        List<PokerCard> reversedCards = new ArrayList(royalFlushHeartsCards);
+        Collections.reverse(reversedCards);
+        PokerHand reversedRoyalFlushHearts = new PokerHand(reversedCards);
+
+        assertEquals(royalFlushHearts, reversedRoyalFlushHearts);
+        assertEquals(royalFlushHearts.hashCode(), reversedRoyalFlushHearts.hashCode());
+        assertEquals(royalFlushHearts.getCardMask(), reversedRoyalFlushHearts.getCardMask());
+    }
+
+    @Test
+    public void equals_differentSuits_returnsFalse() {
+        PokerHand royalFlushHearts = new PokerHand(royalFlushHeartsCards);
+        PokerHand royalFlushSpades = new PokerHand(royalFlushSpadesCards);
+        assertNotEquals(royalFlushHearts, royalFlushSpades);
+        assertNotEquals(royalFlushHearts.getCardMask(), royalFlushSpades.getCardMask());
+    }
+
+    @Test
+    public void equals_sameMaskDifferentDuplicates_returnsFalse() {
+        PokerHand duplicateAces = new PokerHand(createPokerHandCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.JACK, CardSuit.SPADES)));
+        PokerHand duplicateKings = new PokerHand(createPokerHandCards(
+                new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.JACK, CardSuit.SPADES)));
+
+        // the duplicates collapse into the same four bits, so only the card lists tell them apart
+        assertEquals(duplicateAces.getCardMask(), duplicateKings.getCardMask());
+        assertNotEquals(duplicateAces, duplicateKings);
+    }
+
+    @Test
+    public void getCanonicalCardMask_suitPermutedHands_returnsSameMask() {
+        PokerHand royalFlushHearts = new PokerHand(royalFlushHeartsCards);
+        PokerHand royalFlushSpades = new PokerHand(royalFlushSpadesCards);
+        assertEquals(royalFlushHearts.getCanonicalCardMask(),
+                royalFlushSpades.getCanonicalCardMask());
+    }
+
+    @Test
+    public void getCardMask_distinctCards_setsOneBitPerCard() {
+        PokerHand lowStraight = new PokerHand(lowStraightCards);
+        assertEquals(5, Long.bitCount(lowStraight.getCardMask()));
+    }
+
     // --------------
     // Helper Methods
 
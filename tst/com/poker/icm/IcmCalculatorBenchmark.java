@@ -0,0 +1,106 @@
+package com.poker.icm;
+
+import com.poker.card.PokerCard;
+import com.poker.card.PokerCard.CardSuit;
+import com.poker.hand.HandEquity;
+import com.poker.hand.HandEquityCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the latency of an all-in decision at a full final table: the ICM work alone, and the
+ * ICM work combined with a flop or preflop hand equity calculation. Run with {@code java} on the
+ * test classpath; every case is warmed up first so the JIT has compiled the hot paths before
+ * timing starts.
+ */
+public class IcmCalculatorBenchmark {
+    private static final int WARMUP_ROUNDS = 20000;
+    private static final int MEASURED_ROUNDS = 100000;
+    private static final int EQUITY_WARMUP_ROUNDS = 20;
+    private static final int EQUITY_ROUNDS = 100;
+
+    /**
+     * Preflop there are 1.7 million boards, so the calculator samples this many instead.
+     */
+    private static final int PREFLOP_TRIALS = 5000;
+
+    public static void main(String args[]) {
+        IcmCalculator calculator =
+                new IcmCalculator(new double[] {30, 20, 14, 10, 8, 6, 5, 4, 2, 1});
+        long[] stacks = new long[] {
+                42000, 31000, 27500, 19000, 15500, 12000, 9000, 7500, 4000, 2500};
+        Random random = new Random(7);
+
+        // keeps the JIT from discarding the results
+        double sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += calculator.allInEvDelta(
+                    stacks, i % 10, (i + 1) % 10, random.nextDouble() * 0.9, 0.1);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += calculator.allInEvDelta(
+                    stacks, i % 10, (i + 1) % 10, random.nextDouble() * 0.9, 0.1);
+        }
+        long icmNanos = (System.nanoTime() - start) / MEASURED_ROUNDS;
+
+        List<List<PokerCard>> holeCards = new ArrayList();
+        holeCards.add(createCards(new PokerCard(PokerCard.Rank.ACE, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES)));
+        holeCards.add(createCards(new PokerCard(PokerCard.Rank.NINE, CardSuit.HEARTS),
+                new PokerCard(PokerCard.Rank.NINE, CardSuit.CLUBS)));
+        List<PokerCard> flop = createCards(new PokerCard(PokerCard.Rank.TWO, CardSuit.SPADES),
+                new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS),
+                new PokerCard(PokerCard.Rank.KING, CardSuit.SPADES));
+
+        // 990 turn and river runouts, few enough to enumerate exactly
+        long flopNanos = timeDecision(calculator, stacks, holeCards, flop, 1000, random);
+        long preflopNanos = timeDecision(
+                calculator, stacks, holeCards, new ArrayList(), PREFLOP_TRIALS, random);
+
+        System.out.println("ICM all-in decision, 10 players: " + icmNanos / 1000.0 + " us");
+        System.out.println("Flop equity + ICM all-in decision: " + flopNanos / 1000.0 + " us");
+        System.out.println("Preflop equity (" + PREFLOP_TRIALS + " boards) + ICM all-in decision: "
+                + preflopNanos / 1000.0 + " us");
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Returns the mean time, in nanoseconds, to compute the hero's equity and price the all-in.
+     */
+    private static long timeDecision(IcmCalculator calculator, long[] stacks,
+            List<List<PokerCard>> holeCards, List<PokerCard> board, int trials, Random random) {
+        double sink = 0;
+        for (int i = 0; i < EQUITY_WARMUP_ROUNDS; i++) {
+            sink += HandEquityCalculator.calculate(holeCards, board, trials, random)
+                    .getPotEquity(0);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < EQUITY_ROUNDS; i++) {
+            HandEquity equity = HandEquityCalculator.calculate(holeCards, board, trials, random);
+            sink += calculator.allInEvDelta(stacks, 0, 6, equity.getWinProbability(0),
+                    equity.getTieProbability(0));
+        }
+        long nanos = (System.nanoTime() - start) / EQUITY_ROUNDS;
+
+        if (Double.isNaN(sink)) {
+            // never true; keeps the JIT from discarding the results
+            System.out.println(sink);
+        }
+
+        return nanos;
+    }
+
+    private static List<PokerCard> createCards(PokerCard... cards) {
+        List<PokerCard> retVal = new ArrayList();
+        for (PokerCard card : cards) {
+            retVal.add(card);
+        }
+
+        return retVal;
+    }
+}
@@ -0,0 +1,152 @@
+package com.poker.icm;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class IcmCalculatorTest {
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    public void equities_threePlayers_matchesHandComputedValues() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        double[] equities = calculator.equities(new long[] {5000, 3000, 2000});
+
+        // first: 5/10; second: 3/10 * 5/7 + 2/10 * 5/8; third: the remainder
+        double chipLeaderSecond = 0.3 * 5 / 7 + 0.2 * 5 / 8;
+        double expected = 0.5 * 50 + chipLeaderSecond * 30 + (0.5 - chipLeaderSecond) * 20;
+        assertEquals(expected, equities[0], TOLERANCE);
+        assertEquals(100, equities[0] + equities[1] + equities[2], TOLERANCE);
+    }
+
+    @Test
+    public void equities_winnerTakesAll_isProportionalToChips() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {100});
+        double[] equities = calculator.equities(new long[] {1000, 3000, 6000});
+        assertEquals(10, equities[0], TOLERANCE);
+        assertEquals(30, equities[1], TOLERANCE);
+        assertEquals(60, equities[2], TOLERANCE);
+    }
+
+    @Test
+    public void equities_tenEqualStacks_splitsPrizePoolEvenly() {
+        double[] payouts = new double[] {30, 20, 14, 10, 8, 6, 5, 4, 2, 1};
+        IcmCalculator calculator = new IcmCalculator(payouts);
+        long[] stacks = new long[IcmCalculator.MAX_PLAYERS];
+        for (int i = 0; i < stacks.length; i++) {
+            stacks[i] = 1500;
+        }
+
+        double[] equities = calculator.equities(stacks);
+        for (int i = 0; i < equities.length; i++) {
+            assertEquals(10, equities[i], TOLERANCE);
+        }
+    }
+
+    @Test
+    public void equities_bustedPlayer_takesLastPlace() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        double[] equities = calculator.equities(new long[] {4000, 0, 6000});
+        assertEquals(20, equities[1], TOLERANCE);
+        assertEquals(100, equities[0] + equities[1] + equities[2], TOLERANCE);
+    }
+
+    @Test
+    public void equities_tooManyPlayers_exceptionThrown() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {100});
+
+        try {
+            calculator.equities(new long[IcmCalculator.MAX_PLAYERS + 1]);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("ICM only supports up to " + IcmCalculator.MAX_PLAYERS + " players");
+    }
+
+    @Test
+    public void allInEquity_certainWin_matchesEquityOfWinningStacks() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        double winPrize = calculator.equities(new long[] {8000, 0, 2000})[0];
+        assertEquals(winPrize,
+                calculator.allInEquity(new long[] {4000, 4000, 2000}, 0, 1, 1, 0), TOLERANCE);
+    }
+
+    @Test
+    public void allInEvDelta_coinFlipNearBubble_isNegative() {
+        // ICM makes chips lost worth more than chips won, so a pure coin flip loses prize equity
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        assertTrue(calculator.allInEvDelta(new long[] {4000, 4000, 2000}, 0, 1, 0.5, 0) < 0);
+    }
+
+    @Test
+    public void allInEquity_splitPot_isPricedAtUnchangedStacks() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        long[] stacks = new long[] {4000, 4000, 2000};
+        double winPrize = calculator.equities(new long[] {8000, 0, 2000})[0];
+        double losePrize = calculator.equities(new long[] {0, 8000, 2000})[0];
+        double foldPrize = calculator.equities(stacks)[0];
+
+        double allInPrize = calculator.allInEquity(stacks, 0, 1, 0.45, 0.1);
+        assertEquals(0.45 * winPrize + 0.1 * foldPrize + 0.45 * losePrize, allInPrize, TOLERANCE);
+        assertEquals(33.27, allInPrize, 0.005);
+
+        // counting the split as half a win and half a loss undervalues it, since ICM is concave
+        assertTrue(allInPrize > 0.5 * winPrize + 0.5 * losePrize);
+    }
+
+    @Test
+    public void allInEvDelta_chopHeavyMatchup_approachesZero() {
+        // ace-king against ace-king splits most pots, which leaves everyone where they started
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+        long[] stacks = new long[] {4000, 4000, 2000};
+        double winPrize = calculator.equities(new long[] {8000, 0, 2000})[0];
+        double losePrize = calculator.equities(new long[] {0, 8000, 2000})[0];
+        double foldPrize = calculator.equities(stacks)[0];
+
+        double delta = calculator.allInEvDelta(stacks, 0, 1, 0.02, 0.96);
+        assertEquals(0.02 * (winPrize - foldPrize) + 0.02 * (losePrize - foldPrize), delta,
+                TOLERANCE);
+    }
+
+    @Test
+    public void allInEquity_villainNotSeated_exceptionThrown() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+
+        try {
+            calculator.allInEquity(new long[] {4000, 4000, 2000}, 0, 3, 0.5, 0);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("The villain must be one of the players at the table");
+    }
+
+    @Test
+    public void allInEquity_negativeHero_exceptionThrown() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+
+        try {
+            calculator.allInEquity(new long[] {4000, 4000, 2000}, -1, 1, 0.5, 0);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("The hero must be one of the players at the table");
+    }
+
+    @Test
+    public void allInEquity_probabilitiesAboveOne_exceptionThrown() {
+        IcmCalculator calculator = new IcmCalculator(new double[] {50, 30, 20});
+
+        try {
+            calculator.allInEquity(new long[] {4000, 4000, 2000}, 0, 1, 0.7, 0.4);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Win and tie probabilities can't sum to more than 1");
+    }
+}
@@ -0,0 +1,93 @@
+package com.poker.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class HistogramSketchTest {
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    public void quantile_emptySketch_returnsNaN() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    public void quantile_zeroAndOne_returnLowestAndHighestBuckets() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+        sketch.offer(0.32);
+        sketch.offer(0.55);
+        sketch.offer(0.91);
+
+        assertEquals(0.35, sketch.quantile(0), TOLERANCE);
+        assertEquals(0.55, sketch.quantile(0.5), TOLERANCE);
+        assertEquals(0.95, sketch.quantile(1), TOLERANCE);
+    }
+
+    @Test
+    public void offer_valuesOutOfRange_areClampedToEnds() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+        sketch.offer(-3);
+        sketch.offer(7);
+
+        assertEquals(2, sketch.getCount());
+        assertEquals(0.05, sketch.quantile(0), TOLERANCE);
+        assertEquals(0.95, sketch.quantile(1), TOLERANCE);
+    }
+
+    @Test
+    public void quantile_outOfRange_exceptionThrown() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+
+        try {
+            sketch.quantile(1.5);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Quantiles above 1 aren't allowed");
+    }
+
+    @Test
+    public void merge_sameShape_addsCounts() {
+        HistogramSketch first = new HistogramSketch(0, 1, 10);
+        HistogramSketch second = new HistogramSketch(0, 1, 10);
+        first.offer(0.12);
+        second.offer(0.78);
+        second.offer(0.81);
+
+        first.merge(second);
+        assertEquals(3, first.getCount());
+        assertEquals(0.15, first.quantile(0), TOLERANCE);
+        assertEquals(0.85, first.quantile(1), TOLERANCE);
+    }
+
+    @Test
+    public void merge_differentBucketCount_exceptionThrown() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+
+        try {
+            sketch.merge(new HistogramSketch(0, 1, 20));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Histograms with different bucket counts can't be merged");
+    }
+
+    @Test
+    public void merge_differentBounds_exceptionThrown() {
+        HistogramSketch sketch = new HistogramSketch(0, 1, 10);
+
+        try {
+            sketch.merge(new HistogramSketch(0, 2, 10));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Histograms with different bounds can't be merged");
+    }
+}
@@ -0,0 +1,66 @@
+package com.poker.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class HyperLogLogTest {
+    @Test
+    public void estimate_emptySketch_returnsZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    public void estimate_manyDistinctValues_estimatesWithinTolerance() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (long i = 0; i < 100000; i++) {
+            sketch.offer(i);
+            sketch.offer(i);
+        }
+
+        long estimate = sketch.estimate();
+        assertTrue(Math.abs(estimate - 100000) < 10000, "estimate was " + estimate);
+    }
+
+    @Test
+    public void merge_overlappingSketches_estimatesUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (long i = 0; i < 20000; i++) {
+            first.offer(i);
+            second.offer(i + 10000);
+            union.offer(i);
+            union.offer(i + 10000);
+        }
+
+        first.merge(second);
+        assertEquals(union.estimate(), first.estimate());
+    }
+
+    @Test
+    public void merge_differentPrecision_exceptionThrown() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        try {
+            sketch.merge(new HyperLogLog(12));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Sketches of different precision can't be merged");
+    }
+
+    @Test
+    public void hyperLogLog_precisionOutOfRange_exceptionThrown() {
+        try {
+            new HyperLogLog(4);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Precision below the minimum isn't allowed");
+    }
+}
@@ -0,0 +1,148 @@
+package com.poker.stats;
+
+import com.poker.card.PokerCard;
+import com.poker.card.PokerCard.CardSuit;
+import com.poker.hand.HandRanking.HandRankType;
+import com.poker.hand.PokerHand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PlayerStatisticsAggregatorTest {
+    private static final String ALICE = "alice";
+    private static final String BOB = "bob";
+    private static final String CAROL = "carol";
+
+    private final PokerHand pairHand = new PokerHand(createPokerHandCards(
+            new PokerCard(PokerCard.Rank.QUEEN, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.THREE, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS)
+    ));
+
+    private final PokerHand flushHand = new PokerHand(createPokerHandCards(
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.SIX, CardSuit.DIAMONDS)
+    ));
+
+    @Test
+    public void getStatistics_unknownPlayer_returnsNull() {
+        PlayerStatisticsAggregator aggregator = new PlayerStatisticsAggregator();
+        assertNull(aggregator.getStatistics(ALICE));
+    }
+
+    @Test
+    public void accept_multipleHands_countsHandRankTypes() {
+        PlayerStatisticsAggregator aggregator = new PlayerStatisticsAggregator();
+        aggregator.accept(new HandOutcome(ALICE, pairHand, false, 0.5, 0));
+        aggregator.accept(new HandOutcome(ALICE, pairHand, false, 0.5, 1));
+        aggregator.accept(new HandOutcome(ALICE, flushHand, false, 0.5, 1));
+
+        PlayerStatistics statistics = aggregator.getStatistics(ALICE);
+        assertEquals(3, statistics.getHandsPlayed());
+        assertEquals(2, statistics.getHandRankCount(HandRankType.PAIR));
+        assertEquals(1, statistics.getHandRankCount(HandRankType.FLUSH));
+        assertEquals(0, statistics.getHandRankCount(HandRankType.STRAIGHT));
+        assertEquals(2, statistics.getDistinctHandsEstimate());
+    }
+
+    @Test
+    public void accept_showdowns_computesWinRateAndEquityRealized() {
+        PlayerStatisticsAggregator aggregator = new PlayerStatisticsAggregator();
+        aggregator.accept(new HandOutcome(ALICE, flushHand, true, 0.8, 1));
+        aggregator.accept(new HandOutcome(ALICE, pairHand, true, 0.4, 0));
+        aggregator.accept(new HandOutcome(ALICE, pairHand, false, 0.2, 0.2));
+
+        PlayerStatistics statistics = aggregator.getStatistics(ALICE);
+        assertEquals(2, statistics.getShowdowns());
+        assertEquals(0.5, statistics.getShowdownWinRate(), 1e-9);
+        assertEquals(1.2 / 1.4, statistics.getEquityRealized(), 1e-9);
+        assertEquals(0.405, statistics.getShowdownEquityQuantile(0.5), 1e-9);
+        assertEquals(0.805, statistics.getShowdownEquityQuantile(1), 1e-9);
+    }
+
+    @Test
+    public void merge_partialAggregates_matchesSingleAggregate() {
+        PlayerStatisticsAggregator combined = new PlayerStatisticsAggregator();
+        PlayerStatisticsAggregator firstWorker = new PlayerStatisticsAggregator();
+        PlayerStatisticsAggregator secondWorker = new PlayerStatisticsAggregator();
+
+        List<HandOutcome> outcomes = new ArrayList();
+        outcomes.add(new HandOutcome(ALICE, flushHand, true, 0.7, 1));
+        outcomes.add(new HandOutcome(BOB, pairHand, true, 0.3, 0));
+        outcomes.add(new HandOutcome(ALICE, pairHand, true, 0.15, 0));
+        outcomes.add(new HandOutcome(BOB, flushHand, true, 0.9, 1));
+        outcomes.add(new HandOutcome(ALICE, pairHand, true, 0.6, 0.5));
+        outcomes.add(new HandOutcome(CAROL, flushHand, false, 0.4, 0));
+
+        // alice and bob appear in both halves so their statistics have to be combined, while
+        // carol only reaches the second worker
+        for (int i = 0; i < outcomes.size(); i++) {
+            combined.accept(outcomes.get(i));
+            if (i < 2) {
+                firstWorker.accept(outcomes.get(i));
+            } else {
+                secondWorker.accept(outcomes.get(i));
+            }
+        }
+        firstWorker.merge(secondWorker);
+
+        assertEquals(3, firstWorker.getStatistics(ALICE).getHandsPlayed());
+        assertEquals(2, firstWorker.getStatistics(BOB).getHandsPlayed());
+        assertEquals(combined.getPlayerIds(), firstWorker.getPlayerIds());
+        for (String playerId : combined.getPlayerIds()) {
+            PlayerStatistics expected = combined.getStatistics(playerId);
+            PlayerStatistics actual = firstWorker.getStatistics(playerId);
+            assertEquals(expected.getHandsPlayed(), actual.getHandsPlayed());
+            assertEquals(expected.getShowdownWins(), actual.getShowdownWins());
+            assertEquals(expected.getEquityRealized(), actual.getEquityRealized(), 1e-9);
+            assertEquals(expected.getDistinctHandsEstimate(), actual.getDistinctHandsEstimate());
+            assertEquals(expected.getShowdownEquityQuantile(0),
+                    actual.getShowdownEquityQuantile(0), 1e-9);
+            assertEquals(expected.getShowdownEquityQuantile(0.5),
+                    actual.getShowdownEquityQuantile(0.5), 1e-9);
+            assertEquals(expected.getShowdownEquityQuantile(1),
+                    actual.getShowdownEquityQuantile(1), 1e-9);
+            for (HandRankType handRankType : HandRankType.values()) {
+                assertEquals(expected.getHandRankCount(handRankType),
+                        actual.getHandRankCount(handRankType));
+            }
+        }
+    }
+
+    @Test
+    public void merge_otherAggregatorUsedAfterwards_leavesMergedStatisticsUnchanged() {
+        PlayerStatisticsAggregator aggregator = new PlayerStatisticsAggregator();
+        PlayerStatisticsAggregator worker = new PlayerStatisticsAggregator();
+        worker.accept(new HandOutcome(ALICE, pairHand, true, 0.5, 1));
+
+        aggregator.merge(worker);
+        worker.accept(new HandOutcome(ALICE, flushHand, true, 0.5, 1));
+
+        assertEquals(1, aggregator.getStatistics(ALICE).getHandsPlayed());
+        assertEquals(2, worker.getStatistics(ALICE).getHandsPlayed());
+    }
+
+    // --------------
+    // Helper Methods
+
+    private static List<PokerCard> createPokerHandCards(PokerCard pc1, PokerCard pc2,
+            PokerCard pc3, PokerCard pc4, PokerCard pc5) {
+        ArrayList<PokerCard> retVal = new ArrayList();
+        retVal.add(pc1);
+        retVal.add(pc2);
+        retVal.add(pc3);
+        retVal.add(pc4);
+        retVal.add(pc5);
+
+        return retVal;
+    }
+}
@@ -0,0 +1,96 @@
+package com.poker.stats;
+
+import com.poker.card.PokerCard;
+import com.poker.card.PokerCard.CardSuit;
+import com.poker.hand.HandRanking.HandRankType;
+import com.poker.hand.PokerHand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PlayerStatisticsTest {
+    private static final String ALICE = "alice";
+    private static final String BOB = "bob";
+
+    private final PokerHand pairHand = new PokerHand(createPokerHandCards(
+            new PokerCard(PokerCard.Rank.QUEEN, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.THREE, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.ACE, CardSuit.HEARTS)
+    ));
+
+    private final PokerHand flushHand = new PokerHand(createPokerHandCards(
+            new PokerCard(PokerCard.Rank.TWO, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.SEVEN, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FIVE, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.FOUR, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.SIX, CardSuit.DIAMONDS)
+    ));
+
+    private final PokerHand straightHand = new PokerHand(createPokerHandCards(
+            new PokerCard(PokerCard.Rank.NINE, CardSuit.HEARTS),
+            new PokerCard(PokerCard.Rank.KING, CardSuit.DIAMONDS),
+            new PokerCard(PokerCard.Rank.QUEEN, CardSuit.SPADES),
+            new PokerCard(PokerCard.Rank.JACK, CardSuit.CLUBS),
+            new PokerCard(PokerCard.Rank.TEN, CardSuit.SPADES)
+    ));
+
+    @Test
+    public void merge_samePlayer_combinesCountersAndSketches() {
+        PlayerStatistics first = new PlayerStatistics(ALICE);
+        first.record(new HandOutcome(ALICE, pairHand, true, 0.12, 0));
+        first.record(new HandOutcome(ALICE, flushHand, true, 0.55, 1));
+
+        PlayerStatistics second = new PlayerStatistics(ALICE);
+        second.record(new HandOutcome(ALICE, flushHand, true, 0.91, 1));
+        second.record(new HandOutcome(ALICE, straightHand, false, 0.3, 0));
+
+        first.merge(second);
+        assertEquals(4, first.getHandsPlayed());
+        assertEquals(3, first.getShowdowns());
+        assertEquals(2, first.getShowdownWins());
+        assertEquals(2, first.getHandRankCount(HandRankType.FLUSH));
+        assertEquals(1, first.getHandRankCount(HandRankType.STRAIGHT));
+
+        // the showdown equity histogram spans both halves: 0.12, 0.55 and 0.91
+        assertEquals(0.125, first.getShowdownEquityQuantile(0), 1e-9);
+        assertEquals(0.555, first.getShowdownEquityQuantile(0.5), 1e-9);
+        assertEquals(0.915, first.getShowdownEquityQuantile(1), 1e-9);
+
+        // the flush was seen by both halves, so it is only counted once
+        assertEquals(3, first.getDistinctHandsEstimate());
+    }
+
+    @Test
+    public void merge_differentPlayers_exceptionThrown() {
+        PlayerStatistics alice = new PlayerStatistics(ALICE);
+
+        try {
+            alice.merge(new PlayerStatistics(BOB));
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Statistics of different players can't be merged");
+    }
+
+    // --------------
+    // Helper Methods
+
+    private static List<PokerCard> createPokerHandCards(PokerCard pc1, PokerCard pc2,
+            PokerCard pc3, PokerCard pc4, PokerCard pc5) {
+        ArrayList<PokerCard> retVal = new ArrayList();
+        retVal.add(pc1);
+        retVal.add(pc2);
+        retVal.add(pc3);
+        retVal.add(pc4);
+        retVal.add(pc5);
+
+        return retVal;
+    }
+}
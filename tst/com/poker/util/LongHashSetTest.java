@@ -0,0 +1,76 @@
+package com.poker.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class LongHashSetTest {
+    @Test
+    public void add_duplicateValue_returnsFalse() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void add_zero_isTrackedLikeAnyOtherValue() {
+        LongHashSet set = new LongHashSet();
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void add_manyValues_growsAndKeepsAll() {
+        LongHashSet set = new LongHashSet();
+        for (long i = 1; i <= 10000; i++) {
+            assertTrue(set.add(i << 20));
+        }
+
+        assertEquals(10000, set.size());
+        for (long i = 1; i <= 10000; i++) {
+            assertTrue(set.contains(i << 20));
+        }
+        assertFalse(set.contains(10001L << 20));
+    }
+
+    @Test
+    public void clear_populatedSet_removesEverything() {
+        LongHashSet set = new LongHashSet(4);
+        set.add(0);
+        set.add(7);
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(7));
+    }
+
+    @Test
+    public void longHashSet_expectedSizeAboveMaximum_exceptionThrown() {
+        try {
+            new LongHashSet(1 << 30);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Sets larger than the maximum capacity aren't allowed");
+    }
+
+    @Test
+    public void longHashSet_negativeExpectedSize_exceptionThrown() {
+        try {
+            new LongHashSet(-1);
+        } catch (IllegalArgumentException ex) {
+            return;
+        }
+
+        fail("Negative expected sizes aren't allowed");
+    }
+}